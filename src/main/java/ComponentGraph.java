@@ -0,0 +1,106 @@
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.*;
+
+public class ComponentGraph {
+    private final Map<Type, ContextConfig.ComponentProvider<?>> providers;
+
+    ComponentGraph(Map<Type, ContextConfig.ComponentProvider<?>> providers) {
+        this.providers = providers;
+    }
+
+    public List<Type> getCriticalPath() {
+        Map<Type, Long> costs = new IdentityHashMap<>();
+        Type start = null;
+        for (Type component : providers.keySet())
+            if (start == null || cost(component, costs) > cost(start, costs)) start = component;
+
+        List<Type> path = new ArrayList<>();
+        for (Type current = start; current != null; current = heaviestDependency(current, costs)) path.add(current);
+        return path;
+    }
+
+    public void writeDot(Appendable out) {
+        Set<Type> critical = Collections.newSetFromMap(new IdentityHashMap<>());
+        critical.addAll(getCriticalPath());
+        try {
+            out.append("digraph components {\n");
+            for (Map.Entry<Type, ContextConfig.ComponentProvider<?>> entry : providers.entrySet()) {
+                ContextConfig.ComponentProvider<?> provider = entry.getValue();
+                out.append("  \"").append(escape(entry.getKey())).append("\" [label=\"").append(escape(entry.getKey()))
+                        .append("\\nscope=").append(provider.getScope())
+                        .append(" scan=").append(String.valueOf(provider.getScanNanos())).append("ns")
+                        .append(" construction=").append(String.valueOf(constructionNanos(provider))).append("ns")
+                        .append(" total=").append(String.valueOf(provider.getConstructionNanos())).append("ns/")
+                        .append(String.valueOf(provider.getConstructions())).append("\"")
+                        .append(critical.contains(entry.getKey()) ? ", color=red" : "").append("];\n");
+                for (Type dependency : provider.getDependencies())
+                    out.append("  \"").append(escape(entry.getKey())).append("\" -> \"").append(escape(dependency)).append("\";\n");
+            }
+            out.append("}\n");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void writeJson(Appendable out) {
+        try {
+            out.append("{\"components\":[");
+            String separator = "";
+            for (Map.Entry<Type, ContextConfig.ComponentProvider<?>> entry : providers.entrySet()) {
+                ContextConfig.ComponentProvider<?> provider = entry.getValue();
+                out.append(separator).append("{\"type\":\"").append(escape(entry.getKey()))
+                        .append("\",\"scope\":\"").append(provider.getScope())
+                        .append("\",\"scanNanos\":").append(String.valueOf(provider.getScanNanos()))
+                        .append(",\"constructionNanos\":").append(String.valueOf(constructionNanos(provider)))
+                        .append(",\"totalConstructionNanos\":").append(String.valueOf(provider.getConstructionNanos()))
+                        .append(",\"constructions\":").append(String.valueOf(provider.getConstructions()))
+                        .append(",\"dependencies\":");
+                writeJson(out, provider.getDependencies());
+                out.append("}");
+                separator = ",";
+            }
+            out.append("],\"criticalPath\":");
+            writeJson(out, getCriticalPath());
+            out.append("}\n");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private long cost(Type component, Map<Type, Long> costs) {
+        Long known = costs.get(component);
+        if (known != null) return known;
+        ContextConfig.ComponentProvider<?> provider = providers.get(component);
+        if (provider == null) return 0;
+        long dependencies = 0;
+        for (Type dependency : provider.getDependencies()) dependencies = Math.max(dependencies, cost(dependency, costs));
+        long cost = provider.getScanNanos() + constructionNanos(provider) + dependencies;
+        costs.put(component, cost);
+        return cost;
+    }
+
+    private static long constructionNanos(ContextConfig.ComponentProvider<?> provider) {
+        long constructions = provider.getConstructions();
+        return constructions == 0 ? 0 : provider.getConstructionNanos() / constructions;
+    }
+
+    private Type heaviestDependency(Type component, Map<Type, Long> costs) {
+        Type heaviest = null;
+        for (Type dependency : providers.get(component).getDependencies())
+            if (providers.containsKey(dependency) && (heaviest == null || cost(dependency, costs) > cost(heaviest, costs)))
+                heaviest = dependency;
+        return heaviest;
+    }
+
+    private static void writeJson(Appendable out, List<Type> types) throws IOException {
+        out.append("[");
+        for (int i = 0; i < types.size(); i++)
+            out.append(i == 0 ? "\"" : ",\"").append(escape(types.get(i))).append("\"");
+        out.append("]");
+    }
+
+    private static String escape(Type type) {
+        return type.getTypeName().replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -5,4 +5,8 @@ public interface Context {
     <Type> Optional<Type> get(Class<Type> type);
 
     Optional get(ParameterizedType type);
+
+    <Type> Optional<Type> get(TypeLiteral<Type> type);
+
+    ComponentGraph getGraph();
 }
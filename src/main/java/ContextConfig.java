@@ -1,32 +1,90 @@
 import jakarta.inject.Provider;
 
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.*;
 
 public class ContextConfig {
-    private final Map<Class<?>, ComponentProvider<?>> providers = new HashMap<>();
+    private final Map<Type, ComponentProvider<?>> providers = new IdentityHashMap<>();
+    private final Types types = new Types();
+    private boolean validated = false;
+    private List<Type> roots = null;
 
     public <Type> void bind(Class<Type> type, Type instance) {
-        providers.put(type, new ComponentProvider<>() {
+        bindProvider(type, instanceProvider(instance));
+    }
+
+    public <Type, Implementation extends Type>
+    void bind(Class<Type> type, Class<Implementation> implementation) {
+        bindProvider(type, new InjectionProvider<>(implementation, types));
+    }
+
+    public <Type> void bind(TypeLiteral<Type> type, Type instance) {
+        bindProvider(types.canonical(type.getType()), instanceProvider(instance));
+    }
+
+    public <Type, Implementation extends Type>
+    void bind(TypeLiteral<Type> type, Class<Implementation> implementation) {
+        bindProvider(types.canonical(type.getType()), new InjectionProvider<>(implementation, types));
+    }
+
+    public <Type> Context rebind(Class<Type> type, Type instance) {
+        return rebindProvider(type, instanceProvider(instance));
+    }
+
+    public <Type, Implementation extends Type>
+    Context rebind(Class<Type> type, Class<Implementation> implementation) {
+        return rebindProvider(type, new InjectionProvider<>(implementation, types));
+    }
+
+    public <Type> Context rebind(TypeLiteral<Type> type, Type instance) {
+        return rebindProvider(types.canonical(type.getType()), instanceProvider(instance));
+    }
+
+    public <Type, Implementation extends Type>
+    Context rebind(TypeLiteral<Type> type, Class<Implementation> implementation) {
+        return rebindProvider(types.canonical(type.getType()), new InjectionProvider<>(implementation, types));
+    }
+
+    private synchronized void bindProvider(Type type, ComponentProvider<?> provider) {
+        providers.put(type, provider);
+        validated = false;
+    }
+
+    private synchronized Context rebindProvider(Type type, ComponentProvider<?> provider) {
+        ComponentProvider<?> previous = providers.put(type, provider);
+        try {
+            if (!validated) return roots == null ? getContext() : getContext(roots.toArray(Type[]::new));
+            if (roots == null || reachableFrom(roots).contains(type)) checkDependencies(type, new Stack<>());
+        } catch (RuntimeException e) {
+            if (previous == null) providers.remove(type);
+            else providers.put(type, previous);
+            throw e;
+        }
+        return context(roots == null ? new IdentityHashMap<>(providers) : reachableProviders(roots));
+    }
+
+    private static ComponentProvider<Object> instanceProvider(Object instance) {
+        return new ComponentProvider<>() {
             @Override
             public Object get(Context context) {
                 return instance;
             }
 
             @Override
-            public List<Class<?>> getDependencies() {
+            public List<Type> getDependencies() {
                 return List.of();
             }
-        });
-    }
 
-    public <Type, Implementation extends Type>
-    void bind(Class<Type> type, Class<Implementation> implementation) {
-        providers.put(type, new InjectionProvider<>(implementation));
+            @Override
+            public String getScope() {
+                return "instance";
+            }
+        };
     }
 
-    public void checkDependencies(Class<?> component, Stack<Class<?>> visiting) {
-        for (Class<?> dependency : providers.get(component).getDependencies()) {
+    public void checkDependencies(Type component, Stack<Type> visiting) {
+        for (Type dependency : providers.get(component).getDependencies()) {
             if (!providers.containsKey(dependency)) throw new DependencyNotFoundException(dependency, component);
             if (visiting.contains(dependency)) throw new CyclicDependencyFoundException(visiting);
             visiting.push(dependency);
@@ -35,8 +93,55 @@ public class ContextConfig {
         }
     }
 
-    public Context getContext() {
+    public synchronized Context getContext() {
         providers.keySet().forEach(component -> checkDependencies(component, new Stack<>()));
+        validated = true;
+        roots = null;
+        return context(new IdentityHashMap<>(providers));
+    }
+
+    public synchronized Context getContext(Type... roots) {
+        List<Type> components = toRoots(roots);
+        components.forEach(component -> checkDependencies(component, new Stack<>()));
+        validated = true;
+        this.roots = components;
+        return context(reachableProviders(components));
+    }
+
+    public synchronized Set<Type> getUnreachableBindings(Type... roots) {
+        Set<Type> unreachable = new HashSet<>(providers.keySet());
+        unreachable.removeAll(reachableFrom(toRoots(roots)));
+        return unreachable;
+    }
+
+    private Map<Type, ComponentProvider<?>> reachableProviders(List<Type> roots) {
+        Map<Type, ComponentProvider<?>> reachable = new IdentityHashMap<>();
+        for (Type component : reachableFrom(roots)) reachable.put(component, providers.get(component));
+        return reachable;
+    }
+
+    private List<Type> toRoots(Type... roots) {
+        List<Type> components = new ArrayList<>();
+        for (Type root : roots) {
+            Type component = types.canonical(root);
+            if (!providers.containsKey(component)) throw new IllegalArgumentException("root component not bound: " + root.getTypeName());
+            components.add(component);
+        }
+        return components;
+    }
+
+    private Set<Type> reachableFrom(List<Type> roots) {
+        Set<Type> reachable = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Type> pending = new ArrayDeque<>(roots);
+        while (!pending.isEmpty()) {
+            Type component = pending.pop();
+            if (!providers.containsKey(component) || !reachable.add(component)) continue;
+            pending.addAll(providers.get(component).getDependencies());
+        }
+        return reachable;
+    }
+
+    private Context context(Map<Type, ComponentProvider<?>> providers) {
         return new Context() {
             @Override
             public <Type> Optional<Type> get(Class<Type> type) {
@@ -45,9 +150,24 @@ public class ContextConfig {
 
             @Override
             public Optional get(ParameterizedType type) {
-                if (type.getRawType() != Provider.class) return Optional.empty();
-                Class<?> componentType = (Class<?>) type.getActualTypeArguments()[0];
-                return Optional.ofNullable(providers.get(componentType)).map(provider -> (Provider<Object>) () -> provider.get(this));
+                return types.lookup(type).flatMap(key -> {
+                    ParameterizedType canonical = (ParameterizedType) key;
+                    if (canonical.getRawType() != Provider.class)
+                        return Optional.ofNullable(providers.get(canonical)).map(provider -> provider.get(this));
+                    Type componentType = Types.componentType(canonical);
+                    return Optional.ofNullable(providers.get(componentType)).map(provider -> (Provider<Object>) () -> provider.get(this));
+                });
+            }
+
+            @Override
+            public <Type> Optional<Type> get(TypeLiteral<Type> type) {
+                return types.lookup(type.getType()).flatMap(key -> key instanceof ParameterizedType parameterized
+                        ? get(parameterized) : Optional.ofNullable(providers.get(key)).map(provider -> provider.get(this)));
+            }
+
+            @Override
+            public ComponentGraph getGraph() {
+                return new ComponentGraph(providers);
             }
         };
     }
@@ -55,7 +175,23 @@ public class ContextConfig {
     interface ComponentProvider<T> {
         T get(Context context);
 
-        List<Class<?>> getDependencies();
+        List<Type> getDependencies();
+
+        default String getScope() {
+            return "prototype";
+        }
+
+        default long getScanNanos() {
+            return 0;
+        }
+
+        default long getConstructionNanos() {
+            return 0;
+        }
+
+        default long getConstructions() {
+            return 0;
+        }
     }
 
 }
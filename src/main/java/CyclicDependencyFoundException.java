@@ -1,15 +1,16 @@
+import java.lang.reflect.Type;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.Stack;
 
 public class CyclicDependencyFoundException extends RuntimeException {
-    private final Set<Class<?>> components = new HashSet<>();
+    private final Set<Type> components = new HashSet<>();
 
-    public CyclicDependencyFoundException(Stack<Class<?>> visiting) {
+    public CyclicDependencyFoundException(Stack<Type> visiting) {
         components.addAll(visiting);
     }
 
-    public Class<?>[] getComponents() {
-        return components.toArray(Class<?>[]::new);
+    public Type[] getComponents() {
+        return components.toArray(Type[]::new);
     }
 }
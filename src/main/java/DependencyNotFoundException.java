@@ -1,17 +1,19 @@
+import java.lang.reflect.Type;
+
 public class DependencyNotFoundException extends RuntimeException {
-    private final Class<?> dependency;
-    private final Class<?> component;
+    private final Type dependency;
+    private final Type component;
 
-    public DependencyNotFoundException(Class<?> dependency, Class<?> component) {
+    public DependencyNotFoundException(Type dependency, Type component) {
         this.dependency = dependency;
         this.component = component;
     }
 
-    public Class<?> getDependency() {
+    public Type getDependency() {
         return dependency;
     }
 
-    public Class<?> getComponent() {
+    public Type getComponent() {
         return component;
     }
 }
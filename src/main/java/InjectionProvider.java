@@ -1,11 +1,14 @@
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 
 import java.lang.reflect.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.stream;
@@ -14,28 +17,59 @@ class InjectionProvider<T> implements ContextConfig.ComponentProvider<T> {
     private final Constructor<T> injectConstructor;
     private final List<Field> injectFields;
     private final List<Method> injectMethods;
+    private final InjectionPoint[] constructorDependencies;
+    private final List<InjectionPoint> fieldDependencies;
+    private final List<InjectionPoint[]> methodDependencies;
+    private final List<Type> dependencies;
+    private final long scanNanos;
+    private final LongAdder constructionNanos = new LongAdder();
+    private final LongAdder constructions = new LongAdder();
 
     public InjectionProvider(Class<T> component) {
+        this(component, new Types());
+    }
+
+    InjectionProvider(Class<T> component, Types types) {
+        long start = System.nanoTime();
         if (Modifier.isAbstract(component.getModifiers())) throw new IllegalComponentException();
 
         this.injectConstructor = getInjectConstructor(component);
         this.injectFields = getInjectFields(component);
         this.injectMethods = getInjectMethods(component);
+        this.constructorDependencies = toInjectionPoints(injectConstructor, types);
+        this.fieldDependencies = injectFields.stream().map(f -> InjectionPoint.of(Reflection.genericType(f), f, types)).toList();
+        this.methodDependencies = injectMethods.stream().map(m -> toInjectionPoints(m, types)).toList();
+        this.dependencies = Stream.concat(Stream.concat(stream(constructorDependencies), fieldDependencies.stream()),
+                methodDependencies.stream().flatMap(Arrays::stream)).map(p -> componentOf(p.type())).toList();
 
         if (injectFields.stream().anyMatch(f -> Modifier.isFinal(f.getModifiers())))
             throw new IllegalComponentException();
-        if (injectMethods.stream().anyMatch(m -> m.getTypeParameters().length != 0))
+        if (injectMethods.stream().anyMatch(m -> Reflection.typeParameters(m).length != 0))
             throw new IllegalComponentException();
+        this.scanNanos = System.nanoTime() - start;
     }
 
     @Override
     public T get(Context context) {
         try {
-            T instance = injectConstructor.newInstance(toDependencies(context, injectConstructor));
-            for (Field field : injectFields)
-                field.set(instance, toDependency(context, field));
-            for (Method method : injectMethods)
-                method.invoke(instance, toDependencies(context, method));
+            Object[] arguments = toDependencies(context, constructorDependencies);
+            long start = System.nanoTime();
+            T instance = injectConstructor.newInstance(arguments);
+            long elapsed = System.nanoTime() - start;
+            for (int i = 0; i < injectFields.size(); i++) {
+                Object dependency = toDependency(context, fieldDependencies.get(i));
+                start = System.nanoTime();
+                injectFields.get(i).set(instance, dependency);
+                elapsed += System.nanoTime() - start;
+            }
+            for (int i = 0; i < injectMethods.size(); i++) {
+                arguments = toDependencies(context, methodDependencies.get(i));
+                start = System.nanoTime();
+                injectMethods.get(i).invoke(instance, arguments);
+                elapsed += System.nanoTime() - start;
+            }
+            constructionNanos.add(elapsed);
+            constructions.increment();
             return instance;
         } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
             throw new RuntimeException(e);
@@ -43,13 +77,33 @@ class InjectionProvider<T> implements ContextConfig.ComponentProvider<T> {
     }
 
     @Override
-    public List<Class<?>> getDependencies() {
-        return Stream.concat(Stream.concat(stream(injectConstructor.getParameterTypes()),
-                injectFields.stream().map(Field::getType)), injectMethods.stream().flatMap(m -> stream(m.getParameterTypes()))).toList();
+    public List<Type> getDependencies() {
+        return dependencies;
+    }
+
+    @Override
+    public long getScanNanos() {
+        return scanNanos;
+    }
+
+    @Override
+    public long getConstructionNanos() {
+        return constructionNanos.sum();
+    }
+
+    @Override
+    public long getConstructions() {
+        return constructions.sum();
+    }
+
+    private static Type componentOf(Type type) {
+        if (type instanceof ParameterizedType provider && provider.getRawType() == Provider.class)
+            return Types.componentType(provider);
+        return type;
     }
 
     private static <T> List<Method> getInjectMethods(Class<T> component) {
-        List<Method> injectMethods1 = traverse(component, (methods, current) -> injectable(current.getDeclaredMethods())
+        List<Method> injectMethods1 = traverse(component, (methods, current) -> injectable(Reflection.declaredMethods(current))
                 .filter(m -> isOverrideByInjectMethod(methods, m))
                 .filter(m -> isOverrideByNoInjectMethod(component, m))
                 .toList());
@@ -58,11 +112,11 @@ class InjectionProvider<T> implements ContextConfig.ComponentProvider<T> {
     }
 
     private static <T> List<Field> getInjectFields(Class<T> component) {
-        return traverse(component, (fields, current) -> injectable(current.getDeclaredFields()).toList());
+        return traverse(component, (fields, current) -> injectable(Reflection.declaredFields(current)).toList());
     }
 
     private static <Type> Constructor<Type> getInjectConstructor(Class<Type> implementation) {
-        List<Constructor<?>> injectConstructors = injectable(implementation.getConstructors()).toList();
+        List<Constructor<?>> injectConstructors = injectable(Reflection.constructors(implementation)).toList();
         if (injectConstructors.size() > 1) throw new IllegalComponentException();
         return (Constructor<Type>) injectConstructors.stream().findFirst()
                 .orElseGet(() -> defaultConstructor(implementation));
@@ -70,7 +124,7 @@ class InjectionProvider<T> implements ContextConfig.ComponentProvider<T> {
 
     private static <Type> Constructor<Type> defaultConstructor(Class<Type> implementation) {
         try {
-            return implementation.getDeclaredConstructor();
+            return Reflection.declaredConstructor(implementation);
         } catch (NoSuchMethodException e) {
             throw new IllegalComponentException();
         }
@@ -86,15 +140,29 @@ class InjectionProvider<T> implements ContextConfig.ComponentProvider<T> {
         return members;
     }
 
-    private static Object toDependency(Context context, Field field) {
-        Type type = field.getGenericType();
+    private static InjectionPoint[] toInjectionPoints(Executable executable, Types types) {
+        return stream(Reflection.parameters(executable)).map(p -> InjectionPoint.of(Reflection.genericType(p), p, types)).toArray(InjectionPoint[]::new);
+    }
+
+    private static Object toDependency(Context context, InjectionPoint point) {
+        if (!point.lazy()) return toDependency(context, point.type());
+        Class<?> type = rawType(point.type());
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new LazyTarget(type, () -> toDependency(context, point.type())));
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof ParameterizedType parameterized) return (Class<?>) parameterized.getRawType();
+        return (Class<?>) type;
+    }
+
+    private static Object toDependency(Context context, Type type) {
         if (type instanceof ParameterizedType) return context.get((ParameterizedType) type).get();
         return context.get((Class<?>) type).get();
     }
 
     private static <T> boolean isOverrideByNoInjectMethod(Class<T> component, Method m) {
-        return stream(component.getDeclaredMethods())
-                .filter(m1 -> !m1.isAnnotationPresent(Inject.class)).noneMatch(o -> isOverride(m, o));
+        return stream(Reflection.declaredMethods(component))
+                .filter(m1 -> !Reflection.isAnnotated(m1, Inject.class)).noneMatch(o -> isOverride(m, o));
     }
 
     private static boolean isOverrideByInjectMethod(List<Method> injectMethods, Method m) {
@@ -102,18 +170,60 @@ class InjectionProvider<T> implements ContextConfig.ComponentProvider<T> {
     }
 
     private static boolean isOverride(Method m, Method o) {
-        return o.getName().equals(m.getName()) && Arrays.equals(o.getParameterTypes(), m.getParameterTypes());
+        return o.getName().equals(m.getName()) && Arrays.equals(Reflection.parameterTypes(o), Reflection.parameterTypes(m));
     }
 
     private static <T extends AnnotatedElement> Stream<T> injectable(T[] declaredFields) {
-        return stream(declaredFields).filter(p -> p.isAnnotationPresent(Inject.class));
+        return stream(declaredFields).filter(p -> Reflection.isAnnotated(p, Inject.class));
+    }
+
+    private static Object[] toDependencies(Context context, InjectionPoint[] points) {
+        return stream(points).map(point -> toDependency(context, point)).toArray(Object[]::new);
+    }
+
+    private record InjectionPoint(Type type, boolean lazy) {
+        static InjectionPoint of(Type type, AnnotatedElement element, Types types) {
+            InjectionPoint point = new InjectionPoint(types.canonical(type), Reflection.isAnnotated(element, Lazy.class));
+            if (point.lazy() && !rawType(point.type()).isInterface()) throw new IllegalComponentException();
+            return point;
+        }
     }
 
-    private static Object[] toDependencies(Context context, Executable executable) {
-        return stream(executable.getParameters()).map(p -> {
-            Type type = p.getParameterizedType();
-            if (type instanceof ParameterizedType) return context.get((ParameterizedType) type).get();
-            return context.get((Class<?>) type).get();
-        }).toArray(Object[]::new);
+    private static class LazyTarget implements InvocationHandler {
+        private final Class<?> type;
+        private final Supplier<Object> factory;
+        private volatile Object target;
+
+        LazyTarget(Class<?> type, Supplier<Object> factory) {
+            this.type = type;
+            this.factory = factory;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) return invokeOnProxy(proxy, method, args);
+            try {
+                return method.invoke(target(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private Object invokeOnProxy(Object proxy, Method method, Object[] args) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "Lazy<" + type.getName() + ">@" + Integer.toHexString(System.identityHashCode(proxy));
+            };
+        }
+
+        private Object target() {
+            Object result = target;
+            if (result != null) return result;
+            synchronized (this) {
+                if (target == null) target = factory.get();
+                return target;
+            }
+        }
     }
 }
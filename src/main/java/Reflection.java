@@ -0,0 +1,64 @@
+import java.lang.annotation.Annotation;
+import java.lang.reflect.*;
+import java.util.concurrent.atomic.LongAdder;
+
+final class Reflection {
+    private static final LongAdder lookups = new LongAdder();
+
+    private Reflection() {
+    }
+
+    static long lookups() {
+        return lookups.sum();
+    }
+
+    static Constructor<?>[] constructors(Class<?> type) {
+        lookups.increment();
+        return type.getConstructors();
+    }
+
+    static <T> Constructor<T> declaredConstructor(Class<T> type) throws NoSuchMethodException {
+        lookups.increment();
+        return type.getDeclaredConstructor();
+    }
+
+    static Field[] declaredFields(Class<?> type) {
+        lookups.increment();
+        return type.getDeclaredFields();
+    }
+
+    static Method[] declaredMethods(Class<?> type) {
+        lookups.increment();
+        return type.getDeclaredMethods();
+    }
+
+    static Parameter[] parameters(Executable executable) {
+        lookups.increment();
+        return executable.getParameters();
+    }
+
+    static Class<?>[] parameterTypes(Method method) {
+        lookups.increment();
+        return method.getParameterTypes();
+    }
+
+    static TypeVariable<Method>[] typeParameters(Method method) {
+        lookups.increment();
+        return method.getTypeParameters();
+    }
+
+    static Type genericType(Field field) {
+        lookups.increment();
+        return field.getGenericType();
+    }
+
+    static Type genericType(Parameter parameter) {
+        lookups.increment();
+        return parameter.getParameterizedType();
+    }
+
+    static boolean isAnnotated(AnnotatedElement element, Class<? extends Annotation> annotation) {
+        lookups.increment();
+        return element.isAnnotationPresent(annotation);
+    }
+}
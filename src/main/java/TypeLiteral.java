@@ -0,0 +1,14 @@
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+public abstract class TypeLiteral<T> {
+    private final Type type;
+
+    protected TypeLiteral() {
+        this.type = ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0];
+    }
+
+    public Type getType() {
+        return type;
+    }
+}
@@ -0,0 +1,93 @@
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+final class Types {
+    private final Map<Type, Type> interned = new ConcurrentHashMap<>();
+
+    Type canonical(Type type) {
+        return lookup(type).orElseThrow(IllegalComponentException::new);
+    }
+
+    Optional<Type> lookup(Type type) {
+        if (type instanceof Class<?>) return Optional.of(type);
+        if (type instanceof CanonicalParameterizedType canonical && canonical.types == this) return Optional.of(type);
+        if (!(type instanceof ParameterizedType parameterized)) return Optional.empty();
+        Type known = interned.get(parameterized);
+        if (known != null) return Optional.of(known);
+        Type owner = null;
+        if (parameterized.getOwnerType() != null) {
+            Optional<Type> canonicalOwner = lookup(parameterized.getOwnerType());
+            if (canonicalOwner.isEmpty()) return Optional.empty();
+            owner = canonicalOwner.get();
+        }
+        Type[] arguments = parameterized.getActualTypeArguments();
+        for (int i = 0; i < arguments.length; i++) {
+            Optional<Type> argument = lookup(arguments[i]);
+            if (argument.isEmpty()) return Optional.empty();
+            arguments[i] = argument.get();
+        }
+        Type candidate = new CanonicalParameterizedType(this, owner, (Class<?>) parameterized.getRawType(), arguments);
+        Type previous = interned.putIfAbsent(candidate, candidate);
+        return Optional.of(previous == null ? candidate : previous);
+    }
+
+    static Type componentType(ParameterizedType provider) {
+        return ((CanonicalParameterizedType) provider).arguments[0];
+    }
+
+    private static final class CanonicalParameterizedType implements ParameterizedType {
+        private final Types types;
+        private final Type owner;
+        private final Class<?> raw;
+        private final Type[] arguments;
+        private final int hash;
+
+        CanonicalParameterizedType(Types types, Type owner, Class<?> raw, Type[] arguments) {
+            this.types = types;
+            this.owner = owner;
+            this.raw = raw;
+            this.arguments = arguments;
+            this.hash = Arrays.hashCode(arguments) ^ Objects.hashCode(owner) ^ Objects.hashCode(raw);
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return arguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return raw;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return owner;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ParameterizedType that)) return false;
+            return Objects.equals(owner, that.getOwnerType()) && raw.equals(that.getRawType())
+                    && Arrays.equals(arguments, that.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return raw.getTypeName() + Arrays.stream(arguments).map(Type::getTypeName)
+                    .collect(Collectors.joining(", ", "<", ">"));
+        }
+    }
+}
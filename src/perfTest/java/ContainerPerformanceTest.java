@@ -0,0 +1,139 @@
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContainerPerformanceTest {
+    private static final int DEPTH = 5;
+    private static final int WIDTH = 200;
+    private static final int WARM_UP = 200;
+    private static final int SAMPLES = 10;
+
+    // Budgets for 5 x 200 components, measured on JDK 17 without the JaCoCo agent:
+    // getContext() 2-24ms, retained heap 680-970KB per context and 45,736 bytes per get.
+    // Time and heap allow twice the largest baseline, allocation allows 40%.
+    private static final long CONTEXT_CREATION_BUDGET_MILLIS = 50;
+    private static final long RETAINED_HEAP_BUDGET_BYTES = 2 * 1024 * 1024;
+    private static final long ALLOCATION_PER_GET_BUDGET_BYTES = 64 * 1024;
+    private static final long METADATA_LOOKUPS_PER_GET_BUDGET = 0;
+
+    private static SyntheticComponents components;
+
+    ContextConfig config;
+
+    @BeforeAll
+    public static void generate() throws Exception {
+        components = new SyntheticComponents(DEPTH, WIDTH);
+    }
+
+    @AfterAll
+    public static void close() throws Exception {
+        components.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        config = new ContextConfig();
+    }
+
+    @Test
+    @DisplayName("should create context within time budget")
+    public void should_create_context_within_time_budget() {
+        components.bindAll(config);
+        for (int i = 0; i < WARM_UP / 10; i++) config.getContext();
+
+        long start = System.nanoTime();
+        config.getContext();
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsed < CONTEXT_CREATION_BUDGET_MILLIS,
+                "context of " + components.size() + " components took " + elapsed + "ms");
+    }
+
+    @Test
+    @DisplayName("should retain heap within budget for created context")
+    public void should_retain_heap_within_budget_for_created_context() {
+        Context[] contexts = new Context[SAMPLES];
+        long before = usedHeapAfterGc();
+        for (int i = 0; i < SAMPLES; i++) {
+            ContextConfig config = new ContextConfig();
+            components.bindAll(config);
+            contexts[i] = config.getContext();
+        }
+        long retained = (usedHeapAfterGc() - before) / SAMPLES;
+
+        Reference.reachabilityFence(contexts);
+        assertTrue(retained < RETAINED_HEAP_BUDGET_BYTES,
+                "context of " + components.size() + " components retained " + retained + " bytes");
+    }
+
+    @Test
+    @DisplayName("should allocate within budget per get")
+    public void should_allocate_within_budget_per_get() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        components.bindAll(config);
+        Context context = config.getContext();
+        Class<?> root = components.root(0);
+        for (int i = 0; i < WARM_UP; i++) context.get(root);
+
+        long thread = Thread.currentThread().getId();
+        long allocated = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long before = threads.getThreadAllocatedBytes(thread);
+            assertTrue(context.get(root).isPresent());
+            allocated = Math.min(allocated, threads.getThreadAllocatedBytes(thread) - before);
+        }
+
+        assertTrue(allocated < ALLOCATION_PER_GET_BUDGET_BYTES,
+                "resolving " + root.getName() + " allocated " + allocated + " bytes");
+    }
+
+    @Test
+    @DisplayName("should only invoke inject members once per constructed instance")
+    public void should_only_invoke_inject_members_once_per_constructed_instance() {
+        components.bindAll(config);
+        Context context = config.getContext();
+        Class<?> root = components.root(0);
+
+        long before = SyntheticComponents.invocations.get();
+        context.get(root);
+
+        assertEquals(components.invocationsPerResolution(), SyntheticComponents.invocations.get() - before);
+    }
+
+    @Test
+    @DisplayName("should not look up reflective metadata per get")
+    public void should_not_look_up_reflective_metadata_per_get() {
+        long scan = Reflection.lookups();
+        components.bindAll(config);
+        assertTrue(Reflection.lookups() > scan);
+        Context context = config.getContext();
+        Class<?> root = components.root(0);
+
+        long before = Reflection.lookups();
+        context.get(root);
+        long lookups = Reflection.lookups() - before;
+
+        assertTrue(lookups <= METADATA_LOOKUPS_PER_GET_BUDGET,
+                "resolving " + root.getName() + " made " + lookups + " reflective metadata lookups");
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            memory.gc();
+            long current = memory.getHeapMemoryUsage().getUsed();
+            if (current >= used) return current;
+            used = current;
+        }
+        return used;
+    }
+}
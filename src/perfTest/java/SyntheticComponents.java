@@ -0,0 +1,129 @@
+import jakarta.inject.Inject;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+public class SyntheticComponents implements AutoCloseable {
+    public static final AtomicLong invocations = new AtomicLong();
+
+    private final int depth;
+    private final int width;
+    private final URLClassLoader loader;
+    private final Class<?>[][] components;
+
+    public SyntheticComponents(int depth, int width) throws IOException, ClassNotFoundException {
+        this.depth = depth;
+        this.width = width;
+        Path directory = Files.createTempDirectory("synthetic-components");
+        try {
+            this.loader = compile(directory);
+            this.components = load(loader);
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        loader.close();
+    }
+
+    public int size() {
+        return depth * width;
+    }
+
+    public Class<?> root(int index) {
+        return components[0][index];
+    }
+
+    public void bindAll(ContextConfig config) {
+        for (Class<?>[] layer : components)
+            for (Class<?> component : layer) bind(config, component);
+    }
+
+    public long invocationsPerResolution() {
+        long invocations = 0;
+        long instances = 1;
+        for (int layer = 0; layer < depth; layer++, instances *= 3)
+            invocations += instances * (layer == depth - 1 ? 1 : 2);
+        return invocations;
+    }
+
+    private static <T> void bind(ContextConfig config, Class<T> component) {
+        config.bind(component, component);
+    }
+
+    private URLClassLoader compile(Path sources) throws IOException {
+        List<String> files = new ArrayList<>();
+        for (int layer = 0; layer < depth; layer++)
+            for (int index = 0; index < width; index++) {
+                Path file = sources.resolve(name(layer, index) + ".java");
+                Files.writeString(file, source(layer, index));
+                files.add(file.toString());
+            }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> arguments = new ArrayList<>(List.of("-d", sources.toString(), "-classpath", classpath()));
+        arguments.addAll(files);
+        if (compiler.run(null, null, null, arguments.toArray(String[]::new)) != 0)
+            throw new IllegalStateException("failed to compile synthetic components");
+
+        return new URLClassLoader(new URL[]{sources.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private Class<?>[][] load(ClassLoader loader) throws ClassNotFoundException {
+        Class<?>[][] classes = new Class<?>[depth][width];
+        for (int layer = 0; layer < depth; layer++)
+            for (int index = 0; index < width; index++)
+                classes[layer][index] = loader.loadClass(name(layer, index));
+        return classes;
+    }
+
+    private String source(int layer, int index) {
+        String name = name(layer, index);
+        String count = "SyntheticComponents.invocations.incrementAndGet();";
+        if (layer == depth - 1)
+            return "public class " + name + " {\n" +
+                    "    @jakarta.inject.Inject public " + name + "() { " + count + " }\n" +
+                    "}\n";
+        return "public class " + name + " {\n" +
+                "    @jakarta.inject.Inject public " + name(layer + 1, index) + " field;\n" +
+                "    @jakarta.inject.Inject public " + name + "(" + name(layer + 1, (index + 1) % width) + " dependency) { " + count + " }\n" +
+                "    @jakarta.inject.Inject public void install(" + name(layer + 1, (index + 2) % width) + " dependency) { " + count + " }\n" +
+                "}\n";
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) Files.delete(file);
+        }
+    }
+
+    private static String name(int layer, int index) {
+        return "Synthetic_" + layer + "_" + index;
+    }
+
+    private static String classpath() {
+        return location(Inject.class) + File.pathSeparator + location(SyntheticComponents.class);
+    }
+
+    private static String location(Class<?> type) {
+        try {
+            return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
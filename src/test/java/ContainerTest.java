@@ -8,7 +8,9 @@ import org.mockito.internal.util.collections.Sets;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -48,7 +50,7 @@ public class ContainerTest {
 
             CyclicDependencyFoundException exception = assertThrows(CyclicDependencyFoundException.class, () ->
                     config.getContext());
-            Set<Class<?>> classes = Sets.newSet(exception.getComponents());
+            Set<Type> classes = Sets.newSet(exception.getComponents());
 
             assertEquals(2, classes.size());
             assertTrue(classes.contains(Component.class));
@@ -64,13 +66,27 @@ public class ContainerTest {
 
             CyclicDependencyFoundException exception = assertThrows(CyclicDependencyFoundException.class, () ->
                     config.getContext());
-            List<Class<?>> components = asList(exception.getComponents());
+            List<Type> components = asList(exception.getComponents());
 
             assertEquals(3, components.size());
             assertTrue(components.contains(Component.class));
             assertTrue(components.contains(Dependency.class));
             assertTrue(components.contains(AnotherDependency.class));
         }
+
+        @Test
+        @DisplayName("should throw exception if parameterized dependency bound with different argument")
+        public void should_throw_exception_if_parameterized_dependency_bound_with_different_argument() {
+            config.bind(new TypeLiteral<Repository<Dependency>>() {
+            }, new Repository<Dependency>() {
+            });
+            config.bind(Component.class, ComponentWithRepositoryConstructor.class);
+
+            DependencyNotFoundException exception = assertThrows(DependencyNotFoundException.class, () -> config.getContext());
+            assertEquals(new TypeLiteral<Repository<Component>>() {
+            }.getType(), exception.getDependency());
+            assertEquals(Component.class, exception.getComponent());
+        }
     }
 
     @Nested
@@ -103,13 +119,25 @@ public class ContainerTest {
             };
             config.bind(Component.class, instance);
             Context context = config.getContext();
-            ParameterizedType type = new TypeLiteral<Provider<Component>>() {
+            ParameterizedType type = (ParameterizedType) new TypeLiteral<Provider<Component>>() {
             }.getType();
 
             Provider<Component> provider = (Provider<Component>) context.get(type).get();
             assertSame(instance, provider.get());
         }
 
+        @Test
+        @DisplayName("should retrieve bind type as provider by type literal")
+        public void should_retrieve_bind_type_as_provider_by_type_literal() {
+            Component instance = new Component() {
+            };
+            config.bind(Component.class, instance);
+
+            Provider<Component> provider = config.getContext().get(new TypeLiteral<Provider<Component>>() {
+            }).get();
+            assertSame(instance, provider.get());
+        }
+
         @Test
         @DisplayName("should not retrieve bind type as unsupported container")
         public void should_not_retrieve_bind_type_as_unsupported_container() {
@@ -117,15 +145,349 @@ public class ContainerTest {
             };
             config.bind(Component.class, instance);
             Context context = config.getContext();
-            ParameterizedType type = new TypeLiteral<List<Component>>() {
+            ParameterizedType type = (ParameterizedType) new TypeLiteral<List<Component>>() {
             }.getType();
             assertFalse(context.get(type).isPresent());
         }
 
-        static abstract class TypeLiteral<T> {
-            public ParameterizedType getType() {
-                return (ParameterizedType) ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0];
-            }
+        @Test
+        @DisplayName("should bind parameterized types with different arguments separately")
+        public void should_bind_parameterized_types_with_different_arguments_separately() {
+            Repository<Component> components = new Repository<Component>() {
+            };
+            Repository<Dependency> dependencies = new Repository<Dependency>() {
+            };
+            config.bind(new TypeLiteral<Repository<Component>>() {
+            }, components);
+            config.bind(new TypeLiteral<Repository<Dependency>>() {
+            }, dependencies);
+            Context context = config.getContext();
+
+            assertSame(components, context.get(new TypeLiteral<Repository<Component>>() {
+            }).get());
+            assertSame(dependencies, context.get(new TypeLiteral<Repository<Dependency>>() {
+            }).get());
+        }
+
+        @Test
+        @DisplayName("should retrieve parameterized type by reflected type")
+        public void should_retrieve_parameterized_type_by_reflected_type() throws NoSuchFieldException {
+            Repository<Component> components = new Repository<Component>() {
+            };
+            config.bind(new TypeLiteral<Repository<Component>>() {
+            }, components);
+            ParameterizedType type = (ParameterizedType) ComponentWithRepositoryField.class.getDeclaredField("components").getGenericType();
+
+            assertSame(components, config.getContext().get(type).get());
+        }
+
+        @Test
+        @DisplayName("should inject parameterized dependency and provider of parameterized dependency")
+        public void should_inject_parameterized_dependency_and_provider_of_parameterized_dependency() {
+            Repository<Component> components = new Repository<Component>() {
+            };
+            config.bind(new TypeLiteral<Repository<Component>>() {
+            }, components);
+            config.bind(ComponentWithRepositoryField.class, ComponentWithRepositoryField.class);
+
+            ComponentWithRepositoryField component = config.getContext().get(ComponentWithRepositoryField.class).get();
+            assertSame(components, component.components);
+            assertSame(components, component.provider.get());
+        }
+
+        @Test
+        @DisplayName("should intern equal parameterized types into the same token")
+        public void should_intern_equal_parameterized_types_into_the_same_token() throws NoSuchFieldException {
+            Type reflected = ComponentWithRepositoryField.class.getDeclaredField("components").getGenericType();
+            Types types = new Types();
+
+            assertSame(types.canonical(new TypeLiteral<Repository<Component>>() {
+            }.getType()), types.canonical(reflected));
+            assertNotSame(types.canonical(new TypeLiteral<Repository<Component>>() {
+            }.getType()), types.canonical(new TypeLiteral<Repository<Dependency>>() {
+            }.getType()));
+        }
+
+        @Test
+        @DisplayName("should return empty if retrieve type with wildcard")
+        public void should_return_empty_if_retrieve_type_with_wildcard() {
+            config.bind(Component.class, new Component() {
+            });
+            Context context = config.getContext();
+
+            assertTrue(context.get((ParameterizedType) new TypeLiteral<List<?>>() {
+            }.getType()).isEmpty());
+            assertTrue(context.get((ParameterizedType) new TypeLiteral<Provider<? extends Component>>() {
+            }.getType()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should throw exception if bind type with wildcard")
+        public void should_throw_exception_if_bind_type_with_wildcard() {
+            assertThrows(IllegalComponentException.class, () -> config.bind(new TypeLiteral<Repository<?>>() {
+            }, new Repository<Component>() {
+            }));
+        }
+
+        static class ComponentWithRepositoryField {
+            @Inject
+            Repository<Component> components;
+            @Inject
+            Provider<Repository<Component>> provider;
+        }
+    }
+
+    @Nested
+    public class RebindingTest {
+
+        @Test
+        @DisplayName("should publish new context with rebound component")
+        public void should_publish_new_context_with_rebound_component() {
+            Dependency before = new Dependency() {
+            };
+            Dependency after = new Dependency() {
+            };
+            config.bind(Component.class, ComponentWithInjectConstructor.class);
+            config.bind(Dependency.class, before);
+            Context old = config.getContext();
+
+            Context current = config.rebind(Dependency.class, after);
+
+            assertSame(after, ((ComponentWithInjectConstructor) current.get(Component.class).get()).getDependency());
+            assertSame(before, ((ComponentWithInjectConstructor) old.get(Component.class).get()).getDependency());
+        }
+
+        @Test
+        @DisplayName("should keep previous binding if rebound dependency not found")
+        public void should_keep_previous_binding_if_rebound_dependency_not_found() {
+            Dependency dependency = new Dependency() {
+            };
+            config.bind(Component.class, ComponentWithInjectConstructor.class);
+            config.bind(Dependency.class, dependency);
+            config.getContext();
+
+            DependencyNotFoundException exception = assertThrows(DependencyNotFoundException.class, () ->
+                    config.rebind(Dependency.class, DependencyWithInjectConstructor.class));
+            assertEquals(String.class, exception.getDependency());
+            assertEquals(Dependency.class, exception.getComponent());
+            assertSame(dependency, config.getContext().get(Dependency.class).get());
+        }
+
+        @Test
+        @DisplayName("should throw exception if rebinding introduces cyclic dependencies")
+        public void should_throw_exception_if_rebinding_introduces_cyclic_dependencies() {
+            config.bind(Component.class, ComponentWithInjectConstructor.class);
+            config.bind(Dependency.class, new Dependency() {
+            });
+            config.getContext();
+
+            assertThrows(CyclicDependencyFoundException.class, () ->
+                    config.rebind(Dependency.class, DependencyDependedOnComponent.class));
+        }
+
+        @Test
+        @DisplayName("should rebind against roots of rooted context")
+        public void should_rebind_against_roots_of_rooted_context() {
+            Dependency after = new Dependency() {
+            };
+            config.bind(Component.class, ComponentWithInjectConstructor.class);
+            config.bind(Dependency.class, new Dependency() {
+            });
+            config.bind(ComponentWithRepositoryConstructor.class, ComponentWithRepositoryConstructor.class);
+            config.getContext(Component.class);
+
+            Context current = config.rebind(Dependency.class, after);
+
+            assertSame(after, ((ComponentWithInjectConstructor) current.get(Component.class).get()).getDependency());
+            assertTrue(current.get(ComponentWithRepositoryConstructor.class).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should check rebound component reachable from roots of rooted context")
+        public void should_check_rebound_component_reachable_from_roots_of_rooted_context() {
+            Dependency dependency = new Dependency() {
+            };
+            config.bind(Component.class, ComponentWithInjectConstructor.class);
+            config.bind(Dependency.class, dependency);
+            config.getContext(Component.class);
+
+            assertThrows(DependencyNotFoundException.class, () ->
+                    config.rebind(Dependency.class, DependencyWithInjectConstructor.class));
+            assertSame(dependency, config.getContext(Component.class).get(Dependency.class).get());
+        }
+
+        @Test
+        @DisplayName("should check all dependencies if rebinding before context created")
+        public void should_check_all_dependencies_if_rebinding_before_context_created() {
+            config.bind(Component.class, ComponentWithInjectConstructor.class);
+
+            assertThrows(DependencyNotFoundException.class, () ->
+                    config.rebind(AnotherDependency.class, new AnotherDependency() {
+                    }));
+            config.bind(Dependency.class, new Dependency() {
+            });
+            assertTrue(config.getContext().get(AnotherDependency.class).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should keep previous binding if rebinding before context created fails")
+        public void should_keep_previous_binding_if_rebinding_before_context_created_fails() {
+            Dependency dependency = new Dependency() {
+            };
+            config.bind(Component.class, ComponentWithInjectConstructor.class);
+            config.bind(Dependency.class, dependency);
+
+            assertThrows(CyclicDependencyFoundException.class, () ->
+                    config.rebind(Dependency.class, DependencyDependedOnComponent.class));
+            assertSame(dependency, config.getContext().get(Dependency.class).get());
+        }
+    }
+
+    @Nested
+    public class RootReachabilityTest {
+
+        @Test
+        @DisplayName("should only include components reachable from roots")
+        public void should_only_include_components_reachable_from_roots() {
+            Dependency dependency = new Dependency() {
+            };
+            config.bind(Component.class, ComponentWithInjectConstructor.class);
+            config.bind(Dependency.class, dependency);
+            config.bind(AnotherDependency.class, new AnotherDependency() {
+            });
+
+            Context context = config.getContext(Component.class);
+
+            assertSame(dependency, ((ComponentWithInjectConstructor) context.get(Component.class).get()).getDependency());
+            assertTrue(context.get(AnotherDependency.class).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should not check dependencies of unreachable components")
+        public void should_not_check_dependencies_of_unreachable_components() {
+            config.bind(Component.class, ComponentWithInjectConstructor.class);
+            config.bind(AnotherDependency.class, AnotherDependencyDependedOnComponent.class);
+            config.bind(String.class, "unused");
+            config.bind(Dependency.class, DependencyDependedOnAnotherDependency.class);
+
+            assertThrows(CyclicDependencyFoundException.class, () -> config.getContext(Component.class));
+            assertTrue(config.getContext(String.class).get(String.class).isPresent());
+        }
+
+        @Test
+        @DisplayName("should throw exception if dependency of root not found")
+        public void should_throw_exception_if_dependency_of_root_not_found() {
+            config.bind(Component.class, ComponentWithInjectConstructor.class);
+
+            DependencyNotFoundException exception = assertThrows(DependencyNotFoundException.class, () ->
+                    config.getContext(Component.class));
+            assertEquals(Dependency.class, exception.getDependency());
+        }
+
+        @Test
+        @DisplayName("should throw exception if root not bound")
+        public void should_throw_exception_if_root_not_bound() {
+            config.bind(Dependency.class, new Dependency() {
+            });
+
+            assertThrows(IllegalArgumentException.class, () -> config.getContext(Component.class));
+            assertThrows(IllegalArgumentException.class, () -> config.getUnreachableBindings(Component.class));
+        }
+
+        @Test
+        @DisplayName("should report bindings unreachable from roots")
+        public void should_report_bindings_unreachable_from_roots() {
+            config.bind(Component.class, ComponentWithInjectConstructor.class);
+            config.bind(Dependency.class, new Dependency() {
+            });
+            config.bind(AnotherDependency.class, new AnotherDependency() {
+            });
+            config.bind(new TypeLiteral<Repository<Component>>() {
+            }, new Repository<Component>() {
+            });
+
+            Set<Type> unreachable = config.getUnreachableBindings(Component.class);
+
+            assertEquals(Set.of(AnotherDependency.class, new TypeLiteral<Repository<Component>>() {
+            }.getType()), unreachable);
+        }
+    }
+
+    @Nested
+    public class ComponentGraphTest {
+
+        @BeforeEach
+        public void setup() {
+            config.bind(Component.class, ComponentWithInjectConstructor.class);
+            config.bind(Dependency.class, DependencyWithInjectConstructor.class);
+            config.bind(String.class, "indirect dependency");
+        }
+
+        @Test
+        @DisplayName("should find critical path along dependencies")
+        public void should_find_critical_path_along_dependencies() {
+            List<Type> path = config.getContext().getGraph().getCriticalPath();
+
+            assertEquals(List.of(Component.class, Dependency.class, String.class), path);
+        }
+
+        @Test
+        @DisplayName("should use cost of single construction for critical path")
+        public void should_use_cost_of_single_construction_for_critical_path() {
+            Map<Type, ContextConfig.ComponentProvider<?>> providers = new IdentityHashMap<>();
+            providers.put(Component.class, measured(1_000, 100));
+            providers.put(Dependency.class, measured(50, 1));
+
+            assertEquals(List.of(Dependency.class), new ComponentGraph(providers).getCriticalPath());
+        }
+
+        private ContextConfig.ComponentProvider<Object> measured(long constructionNanos, long constructions) {
+            return new ContextConfig.ComponentProvider<>() {
+                @Override
+                public Object get(Context context) {
+                    return null;
+                }
+
+                @Override
+                public List<Type> getDependencies() {
+                    return List.of();
+                }
+
+                @Override
+                public long getConstructionNanos() {
+                    return constructionNanos;
+                }
+
+                @Override
+                public long getConstructions() {
+                    return constructions;
+                }
+            };
+        }
+
+        @Test
+        @DisplayName("should export graph as dot")
+        public void should_export_graph_as_dot() {
+            StringBuilder dot = new StringBuilder();
+            config.getContext().getGraph().writeDot(dot);
+
+            assertTrue(dot.toString().startsWith("digraph components {\n"));
+            assertTrue(dot.toString().contains("  \"Component\" -> \"Dependency\";\n"));
+            assertTrue(dot.toString().contains("  \"Dependency\" -> \"java.lang.String\";\n"));
+        }
+
+        @Test
+        @DisplayName("should export graph as json with scope and constructions")
+        public void should_export_graph_as_json_with_scope_and_constructions() {
+            Context context = config.getContext();
+            context.get(Component.class);
+            StringBuilder json = new StringBuilder();
+            context.getGraph().writeJson(json);
+
+            assertTrue(json.toString().contains("{\"type\":\"java.lang.String\",\"scope\":\"instance\",\"scanNanos\":0,\"constructionNanos\":0,\"totalConstructionNanos\":0,\"constructions\":0,\"dependencies\":[]}"));
+            assertTrue(json.toString().contains("{\"type\":\"Component\",\"scope\":\"prototype\""));
+            assertTrue(json.toString().contains("\"constructions\":1,\"dependencies\":[\"Dependency\"]}"));
+            assertTrue(json.toString().endsWith("\"criticalPath\":[\"Component\",\"Dependency\",\"java.lang.String\"]}\n"));
         }
     }
 
@@ -149,6 +511,15 @@ interface Dependency {
 interface AnotherDependency {
 }
 
+interface Repository<T> {
+}
+
+class ComponentWithRepositoryConstructor implements Component {
+    @Inject
+    public ComponentWithRepositoryConstructor(Repository<Component> repository) {
+    }
+}
+
 class ComponentWithDefaultConstructor implements Component {
 
     public ComponentWithDefaultConstructor() {
@@ -6,7 +6,13 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
@@ -165,6 +171,13 @@ public class InjectionTest {
                 assertSame(dependencyProvider, instance.dependency);
             }
 
+            @Test
+            @DisplayName("should include provided type as dependency of provider field")
+            public void should_include_provided_type_as_dependency_of_provider_field() {
+                InjectionProvider<ProviderInjectField> provider = new InjectionProvider<>(ProviderInjectField.class);
+                assertArrayEquals(new Class<?>[]{Dependency.class}, provider.getDependencies().toArray(Class<?>[]::new));
+            }
+
         }
 
         @Nested
@@ -323,4 +336,107 @@ public class InjectionTest {
 
         }
     }
+
+    @Nested
+    public class LazyInjectionTest {
+        interface Service {
+            String name();
+        }
+
+        private final Service service = () -> "service";
+
+        @BeforeEach
+        public void setup() {
+            when(context.get(eq(Service.class))).thenReturn(Optional.of(service));
+        }
+
+        static class LazyInjectConstructor {
+            Service service;
+
+            @Inject
+            public LazyInjectConstructor(@Lazy Service service) {
+                this.service = service;
+            }
+        }
+
+        @Test
+        @DisplayName("should not resolve lazy dependency until first call")
+        public void should_not_resolve_lazy_dependency_until_first_call() {
+            LazyInjectConstructor instance = new InjectionProvider<>(LazyInjectConstructor.class).get(context);
+            verify(context, never()).get(eq(Service.class));
+
+            assertEquals("service", instance.service.name());
+            assertEquals("service", instance.service.name());
+            verify(context, times(1)).get(eq(Service.class));
+        }
+
+        @Test
+        @DisplayName("should not resolve lazy dependency for object methods")
+        public void should_not_resolve_lazy_dependency_for_object_methods() {
+            LazyInjectConstructor instance = new InjectionProvider<>(LazyInjectConstructor.class).get(context);
+
+            assertEquals(instance.service, instance.service);
+            assertEquals(System.identityHashCode(instance.service), instance.service.hashCode());
+            assertTrue(instance.service.toString().startsWith("Lazy<"));
+            verify(context, never()).get(eq(Service.class));
+        }
+
+        @Test
+        @DisplayName("should resolve lazy dependency once if first called concurrently")
+        public void should_resolve_lazy_dependency_once_if_first_called_concurrently() throws Exception {
+            when(context.get(eq(Service.class))).thenAnswer(invocation -> {
+                Thread.sleep(50);
+                return Optional.of(service);
+            });
+            LazyInjectConstructor instance = new InjectionProvider<>(LazyInjectConstructor.class).get(context);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                List<Future<String>> names = new ArrayList<>();
+                for (int i = 0; i < 8; i++)
+                    names.add(executor.submit(() -> {
+                        start.await();
+                        return instance.service.name();
+                    }));
+                start.countDown();
+                for (Future<String> name : names) assertEquals("service", name.get());
+            } finally {
+                executor.shutdownNow();
+            }
+            verify(context, times(1)).get(eq(Service.class));
+        }
+
+        static class LazyInjectField {
+            @Inject
+            @Lazy
+            Service service;
+        }
+
+        @Test
+        @DisplayName("should inject lazy dependency via field")
+        public void should_inject_lazy_dependency_via_field() {
+            LazyInjectField instance = new InjectionProvider<>(LazyInjectField.class).get(context);
+            assertNotSame(service, instance.service);
+            assertEquals("service", instance.service.name());
+        }
+
+        @Test
+        @DisplayName("should include lazy dependency in dependencies")
+        public void should_include_lazy_dependency_in_dependencies() {
+            InjectionProvider<LazyInjectConstructor> provider = new InjectionProvider<>(LazyInjectConstructor.class);
+            assertArrayEquals(new Class<?>[]{Service.class}, provider.getDependencies().toArray(Class<?>[]::new));
+        }
+
+        static class LazyInjectFieldOfClass {
+            @Inject
+            @Lazy
+            String name;
+        }
+
+        @Test
+        @DisplayName("should throw exception if lazy dependency is not interface")
+        public void should_throw_exception_if_lazy_dependency_is_not_interface() {
+            assertThrows(IllegalComponentException.class, () -> new InjectionProvider<>(LazyInjectFieldOfClass.class));
+        }
+    }
 }